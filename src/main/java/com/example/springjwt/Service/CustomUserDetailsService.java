@@ -1,5 +1,7 @@
 package com.example.springjwt.Service;
 
+import com.example.springjwt.datasource.DataSourceRoutingContext; // primary 강제 라우팅 컨텍스트
+import com.example.springjwt.datasource.PrimaryFallbackLimiter; // primary 재조회 허용량 제한
 import com.example.springjwt.dto.CustomUserDetails; // 사용자 정의 UserDetails 클래스
 import com.example.springjwt.entity.UserEntity; // 데이터베이스 사용자 엔티티 클래스
 import com.example.springjwt.repository.UserRepository; // 사용자 데이터베이스 접근 레포지토리
@@ -7,23 +9,37 @@ import org.springframework.security.core.userdetails.UserDetails; // Spring Secu
 import org.springframework.security.core.userdetails.UserDetailsService; // Spring Security에서 사용자 정보를 불러오는 인터페이스
 import org.springframework.security.core.userdetails.UsernameNotFoundException; // 사용자 이름이 없을 때 던지는 예외
 import org.springframework.stereotype.Service; // Spring 서비스 레이어를 나타냄
+import org.springframework.transaction.PlatformTransactionManager; // 트랜잭션 매니저
+import org.springframework.transaction.support.TransactionTemplate; // 읽기 전용 트랜잭션 실행 (replica 라우팅)
 
 @Service // Spring에서 서비스 레이어의 Bean으로 등록
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository; // 사용자 정보를 DB에서 가져오기 위한 레포지토리
+    private final TransactionTemplate readOnlyTransaction; // replica로 라우팅되는 읽기 전용 트랜잭션
+    private final PrimaryFallbackLimiter primaryFallbackLimiter; // primary 재조회 허용량 제한
 
     /**
      * 생성자 주입을 통해 UserRepository를 의존성 주입
      *
      * @param userRepository 사용자 데이터베이스 접근 레포지토리
+     * @param transactionManager 읽기 전용 트랜잭션 생성을 위한 트랜잭션 매니저
+     * @param primaryFallbackLimiter primary 재조회 허용량 제한
      */
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                                    PrimaryFallbackLimiter primaryFallbackLimiter) {
         this.userRepository = userRepository;
+        this.primaryFallbackLimiter = primaryFallbackLimiter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
      * 사용자 이름으로 사용자 정보를 로드
+     * 먼저 읽기 전용 트랜잭션으로 replica에서 조회하고, 사용자가 없으면
+     * 복제 지연(방금 가입한 사용자 등)일 수 있으므로 primary에서 한 번 더 조회합니다.
+     * 이 재조회는 존재하지 않는 사용자 이름마다 primary 부하를 추가하므로,
+     * PrimaryFallbackLimiter의 초당 허용량 안에서만 수행합니다.
      *
      * @param username 사용자 이름
      * @return Spring Security의 UserDetails 객체
@@ -33,7 +49,13 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
         // 데이터베이스에서 사용자 이름에 해당하는 사용자 정보 검색
-        UserEntity userData = userRepository.findByUsername(username);
+        UserEntity userData = readOnlyTransaction.execute(status -> userRepository.findByUsername(username));
+
+        // replica에 아직 복제되지 않았을 수 있으므로 허용량 안에서 primary에서 재조회
+        // (replica 트랜잭션이 끝난 뒤 새 커넥션으로 조회해야 primary로 라우팅됨)
+        if (userData == null && primaryFallbackLimiter.tryAcquire()) {
+            userData = DataSourceRoutingContext.callOnPrimary(() -> userRepository.findByUsername(username));
+        }
 
         // 사용자가 존재하면 CustomUserDetails 객체로 변환하여 반환
         if (userData != null) {
@@ -1,10 +1,15 @@
 package com.example.springjwt.Service;
 
+import com.example.springjwt.audit.AuthAuditEventType;
+import com.example.springjwt.audit.AuthAuditPublisher;
 import com.example.springjwt.dto.UserDTO;
 import com.example.springjwt.entity.UserEntity;
 import com.example.springjwt.repository.UserRepository;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * JoinService는 회원가입 로직을 처리하는 서비스 클래스입니다.
@@ -14,24 +19,31 @@ public class JoinService {
 
     private final BCryptPasswordEncoder bCryptPasswordEncoder; // 비밀번호 암호화를 위한 객체.
     private final UserRepository userRepository; // 사용자 데이터를 처리하는 리포지토리.
+    private final AuthAuditPublisher auditPublisher; // 회원가입 감사 이벤트 발행기.
 
     /**
      * 생성자 주입 방식으로 UserRepository와 BCryptPasswordEncoder 주입.
      *
      * @param userRepository 사용자 데이터 처리를 위한 리포지토리 객체.
      * @param bCryptPasswordEncoder 비밀번호 암호화를 위한 인코더 객체.
+     * @param auditPublisher 회원가입 감사 이벤트 발행기.
      */
-    public JoinService(UserRepository userRepository, BCryptPasswordEncoder bCryptPasswordEncoder) {
+    public JoinService(UserRepository userRepository, BCryptPasswordEncoder bCryptPasswordEncoder,
+                       AuthAuditPublisher auditPublisher) {
         this.userRepository = userRepository;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.auditPublisher = auditPublisher;
     }
 
     /**
      * 회원가입 프로세스를 처리합니다.
+     * 읽기/쓰기 트랜잭션으로 실행되어 중복 확인과 저장 모두 primary에서 수행됩니다.
      *
      * @param userDTO 회원가입 요청 데이터 (DTO).
+     * @param remoteAddr 회원가입 요청 IP (감사 이벤트 기록용).
      */
-    public void joinProcess(UserDTO userDTO) {
+    @Transactional
+    public void joinProcess(UserDTO userDTO, String remoteAddr) {
         String username = userDTO.getUsername(); // DTO에서 사용자 이름 가져오기.
         String password = userDTO.getPassword(); // DTO에서 비밀번호 가져오기.
 
@@ -51,5 +63,13 @@ public class JoinService {
 
         // 사용자 데이터를 데이터베이스에 저장.
         userRepository.save(data);
+
+        // 회원가입 감사 이벤트는 커밋이 성공한 뒤에만 발행 (롤백된 가입은 기록하지 않음).
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                auditPublisher.publish(AuthAuditEventType.JOIN, username, remoteAddr, data.getRole());
+            }
+        });
     }
 }
@@ -0,0 +1,102 @@
+package com.example.springjwt.Service;
+
+import com.example.springjwt.dto.TokenIntrospectionResult;
+import com.example.springjwt.jwt.JWTUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * TokenIntrospectionService는 여러 JWT를 한 번에 검증하는 서비스 클래스입니다.
+ * 배치를 전용 ForkJoinPool에서 코어 수만큼 병렬로 검증하여 내부 서비스의 호출 횟수를 줄입니다.
+ */
+@Service
+public class TokenIntrospectionService {
+
+    private static final int PARALLEL_THRESHOLD = 32; // 이보다 작은 배치는 병렬화 비용이 더 크므로 순차 처리.
+
+    private final JWTUtil jwtUtil; // 토큰 서명/만료 검증을 위한 유틸리티.
+    private final ForkJoinPool pool; // 검증 전용 스레드 풀 (공용 풀과 분리).
+
+    /**
+     * 생성자 주입 방식으로 JWTUtil과 병렬도 설정 주입.
+     *
+     * @param jwtUtil 토큰 검증 유틸리티.
+     * @param parallelism 검증 스레드 수 (0 이하이면 사용 가능한 코어 수).
+     */
+    public TokenIntrospectionService(JWTUtil jwtUtil,
+                                     @Value("${spring.jwt.introspection.parallelism:0}") int parallelism) {
+        this.jwtUtil = jwtUtil;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 토큰 목록을 검증하고 요청 순서대로 결과를 반환합니다.
+     *
+     * @param tokens 검증할 JWT 목록.
+     * @return 토큰별 검증 결과 (입력과 같은 순서).
+     */
+    public List<TokenIntrospectionResult> introspectAll(List<String> tokens) {
+        if (tokens.size() < PARALLEL_THRESHOLD) {
+            return tokens.stream().map(this::introspect).toList();
+        }
+        // 전용 풀 안에서 parallelStream을 실행하면 작업이 해당 풀의 스레드로 분배됨.
+        return pool.submit(() -> tokens.parallelStream().map(this::introspect).toList()).join();
+    }
+
+    /**
+     * 토큰 하나를 검증합니다. 검증 실패는 예외 대신 거부 사유로 반환합니다.
+     *
+     * @param token 검증할 JWT.
+     * @return 검증 결과.
+     */
+    public TokenIntrospectionResult introspect(String token) {
+        try {
+            Claims claims = jwtUtil.parseClaims(token);
+            if (claims.getExpiration() == null) {
+                // 만료 시간이 없는 토큰은 영구히 유효하므로 허용하지 않음.
+                return TokenIntrospectionResult.rejected("missing_expiration");
+            }
+            return TokenIntrospectionResult.active(
+                    claims.get("username", String.class),
+                    claims.get("role", String.class),
+                    toEpochSecond(claims.getIssuedAt()),
+                    toEpochSecond(claims.getExpiration()));
+        } catch (ExpiredJwtException e) {
+            return TokenIntrospectionResult.rejected("expired");
+        } catch (SecurityException e) {
+            return TokenIntrospectionResult.rejected("invalid_signature");
+        } catch (MalformedJwtException e) {
+            return TokenIntrospectionResult.rejected("malformed");
+        } catch (UnsupportedJwtException e) {
+            return TokenIntrospectionResult.rejected("unsupported");
+        } catch (JwtException e) {
+            return TokenIntrospectionResult.rejected("invalid");
+        } catch (IllegalArgumentException e) {
+            // null 또는 빈 문자열 토큰.
+            return TokenIntrospectionResult.rejected("empty");
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 검증 스레드 풀 종료.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static Long toEpochSecond(Date date) {
+        return date != null ? date.toInstant().getEpochSecond() : null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.springjwt.audit;
+
+/**
+ * 링 버퍼가 가득 찼을 때 이벤트를 어떻게 처리할지 정의하는 정책.
+ */
+public enum AuditOverflowPolicy {
+
+    DROP, // 즉시 이벤트를 버리고 드롭 카운터를 증가 (요청 지연 없음)
+
+    BLOCK // writer가 공간을 비울 때까지 최대 block-timeout 동안 대기 후, 그래도 가득 차 있으면 버림
+}
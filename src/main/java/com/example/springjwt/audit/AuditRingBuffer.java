@@ -0,0 +1,98 @@
+package com.example.springjwt.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다중 생산자 / 단일 소비자용 고정 크기 lock-free 링 버퍼.
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 CAS로 자리를 예약하고,
+ * 소비자는 시퀀스가 채워진 슬롯만 순서대로 꺼냅니다.
+ *
+ * @param <E> 저장할 원소 타입
+ */
+class AuditRingBuffer<E> {
+
+    private final int capacity; // 슬롯 개수 (2의 거듭제곱)
+    private final int mask; // 인덱스 계산용 마스크 (capacity - 1)
+    private final AtomicReferenceArray<E> slots; // 실제 원소 저장 배열
+    private final AtomicLongArray sequences; // 슬롯별 시퀀스 번호
+    private final AtomicLong tail = new AtomicLong(); // 다음에 쓸 위치 (생산자들이 공유)
+    private long head; // 다음에 읽을 위치 (소비자 스레드 전용)
+
+    /**
+     * AuditRingBuffer 생성자. 요청 크기를 2의 거듭제곱으로 올림합니다.
+     *
+     * @param requestedCapacity 원하는 최소 용량
+     */
+    AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + requestedCapacity);
+        }
+        int size = Integer.highestOneBit(requestedCapacity);
+        if (size < requestedCapacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소를 버퍼에 추가. 버퍼가 가득 차 있으면 대기하지 않고 false를 반환합니다.
+     *
+     * @param element 추가할 원소
+     * @return 추가 성공 여부
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                // 슬롯이 비어 있음: CAS로 자리를 예약한 뒤 원소를 쓰고 시퀀스를 공개
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // 소비자가 아직 한 바퀴 전 원소를 꺼내지 않음: 가득 참
+                return false;
+            }
+            // diff > 0: 다른 생산자가 먼저 예약함, 재시도
+        }
+    }
+
+    /**
+     * 버퍼에서 최대 maxElements개의 원소를 꺼내 sink에 담습니다.
+     * 단일 소비자 스레드에서만 호출해야 합니다.
+     *
+     * @param sink        꺼낸 원소를 담을 리스트
+     * @param maxElements 최대 개수
+     * @return 꺼낸 원소 개수
+     */
+    int drainTo(List<E> sink, int maxElements) {
+        int count = 0;
+        while (count < maxElements) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                // 아직 공개되지 않았거나 비어 있는 슬롯
+                break;
+            }
+            sink.add(slots.get(index));
+            slots.set(index, null);
+            // 다음 바퀴의 생산자가 사용할 수 있도록 시퀀스를 한 바퀴 앞으로 이동
+            sequences.set(index, head + capacity);
+            head++;
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.springjwt.audit;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 인증 관련 감사 이벤트 한 건을 나타내는 불변 객체.
+ * 요청 스레드에서 생성되어 링 버퍼를 거쳐 백그라운드 writer 스레드에서 저장됩니다.
+ */
+@Getter
+public class AuthAuditEvent {
+
+    private final AuthAuditEventType type; // 이벤트 종류
+
+    private final String username; // 대상 사용자 이름 (실패 시 입력값 그대로)
+
+    private final String remoteAddr; // 요청 IP (요청 컨텍스트가 없으면 null)
+
+    private final String detail; // 부가 정보 (예: 실패 원인 예외 이름)
+
+    private final Instant occurredAt; // 이벤트 발생 시각
+
+    /**
+     * AuthAuditEvent 생성자. 발생 시각은 생성 시점으로 기록됩니다.
+     *
+     * @param type       이벤트 종류
+     * @param username   사용자 이름
+     * @param remoteAddr 요청 IP
+     * @param detail     부가 정보
+     */
+    public AuthAuditEvent(AuthAuditEventType type, String username, String remoteAddr, String detail) {
+        this.type = type;
+        this.username = username;
+        this.remoteAddr = remoteAddr;
+        this.detail = detail;
+        this.occurredAt = Instant.now();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.springjwt.audit;
+
+/**
+ * 감사(audit) 이벤트의 종류를 정의하는 열거형.
+ */
+public enum AuthAuditEventType {
+
+    LOGIN_SUCCESS, // 로그인 성공 (LoginFilter.successfulAuthentication)
+
+    LOGIN_FAILURE, // 로그인 실패 (LoginFilter.unsuccessfulAuthentication)
+
+    JOIN // 회원가입 완료 (JoinService.joinProcess)
+}
@@ -0,0 +1,212 @@
+package com.example.springjwt.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인증 감사 이벤트 파이프라인.
+ * 요청 스레드는 이벤트를 lock-free 링 버퍼에 넣기만 하고,
+ * 백그라운드 writer 스레드가 버퍼를 비우며 JDBC 배치 insert로 저장합니다.
+ *
+ * 저장 대상 테이블 (ddl-auto=none 이므로 미리 생성 필요):
+ * <pre>
+ * CREATE TABLE auth_audit_event (
+ *     id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+ *     event_type  VARCHAR(32)  NOT NULL,
+ *     username    VARCHAR(255),
+ *     remote_addr VARCHAR(64),
+ *     detail      VARCHAR(255),
+ *     occurred_at TIMESTAMP(3) NOT NULL
+ * );
+ * </pre>
+ */
+@Component
+public class AuthAuditPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthAuditPublisher.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO auth_audit_event (event_type, username, remote_addr, detail, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate; // 배치 insert에 사용할 JdbcTemplate
+    private final AuditRingBuffer<AuthAuditEvent> buffer; // 요청 스레드와 writer 사이의 링 버퍼
+    private final AuditOverflowPolicy overflowPolicy; // 버퍼가 가득 찼을 때의 정책
+    private final int batchSize; // 한 번에 insert할 최대 이벤트 수
+    private final long flushIntervalNanos; // 버퍼가 비었을 때 writer가 대기하는 시간
+    private final long blockTimeoutNanos; // BLOCK 정책에서 최대 대기 시간
+
+    private final AtomicLong overflowCount = new AtomicLong(); // 버퍼 포화로 버려진 이벤트 수
+    private final AtomicLong failedCount = new AtomicLong(); // DB 저장 실패로 유실된 이벤트 수
+    private final AtomicLong acceptedCount = new AtomicLong(); // 버퍼에 들어간 이벤트 수
+    private final AtomicLong drainedCount = new AtomicLong(); // 버퍼에서 꺼낸 이벤트 수
+    private volatile boolean running; // writer 스레드 동작 여부
+    private Thread writer; // 백그라운드 writer 스레드
+
+    /**
+     * 생성자 주입 방식으로 JdbcTemplate과 파이프라인 설정값 주입.
+     *
+     * @param jdbcTemplate     배치 insert에 사용할 JdbcTemplate
+     * @param capacity         링 버퍼 용량 (2의 거듭제곱으로 올림)
+     * @param batchSize        배치 insert 최대 크기
+     * @param flushIntervalMs  버퍼가 비었을 때 writer 대기 시간 (밀리초)
+     * @param overflowPolicy   버퍼 포화 시 정책 (DROP / BLOCK)
+     * @param blockTimeoutMs   BLOCK 정책의 최대 대기 시간 (밀리초)
+     */
+    public AuthAuditPublisher(JdbcTemplate jdbcTemplate,
+                              @Value("${spring.audit.capacity:8192}") int capacity,
+                              @Value("${spring.audit.batch-size:256}") int batchSize,
+                              @Value("${spring.audit.flush-interval-ms:200}") long flushIntervalMs,
+                              @Value("${spring.audit.overflow-policy:DROP}") AuditOverflowPolicy overflowPolicy,
+                              @Value("${spring.audit.block-timeout-ms:50}") long blockTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new AuditRingBuffer<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+    }
+
+    /**
+     * 빈 초기화 후 백그라운드 writer 스레드를 시작.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "auth-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 감사 이벤트를 발행. 요청 스레드에서 호출되며 DB 작업을 수행하지 않습니다.
+     *
+     * @param type       이벤트 종류
+     * @param username   사용자 이름
+     * @param remoteAddr 요청 IP
+     * @param detail     부가 정보
+     */
+    public void publish(AuthAuditEventType type, String username, String remoteAddr, String detail) {
+        AuthAuditEvent event = new AuthAuditEvent(type, username, remoteAddr, detail);
+
+        if (buffer.offer(event)) {
+            acceptedCount.incrementAndGet();
+            return;
+        }
+
+        // 버퍼가 가득 참: BLOCK 정책이면 writer를 깨우고 제한 시간 동안 재시도
+        if (overflowPolicy == AuditOverflowPolicy.BLOCK && running) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                if (buffer.offer(event)) {
+                    acceptedCount.incrementAndGet();
+                    return;
+                }
+            }
+        }
+
+        // DROP 정책이거나 BLOCK 제한 시간 초과: 이벤트를 버림
+        long dropped = overflowCount.incrementAndGet();
+        if ((dropped & (dropped - 1)) == 0) {
+            // 로그 폭주를 막기 위해 1, 2, 4, 8, ... 번째 드롭에서만 기록
+            log.warn("Audit buffer full, dropped {} event(s) so far (policy={})", dropped, overflowPolicy);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 writer를 멈추고 버퍼에 남은 이벤트를 모두 저장.
+     * DataSource보다 먼저 종료되므로 남은 이벤트를 안전하게 flush할 수 있습니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // writer 종료 후(join) 현재 스레드가 유일한 소비자이므로 남은 이벤트 직접 flush
+        if (writer == null || !writer.isAlive()) {
+            List<AuthAuditEvent> batch = new ArrayList<>(batchSize);
+            while (drainAndWrite(batch) > 0) {
+                // 버퍼가 빌 때까지 반복
+            }
+        } else {
+            // writer가 아직 저장 중이라 버퍼를 비울 수 없음 (단일 소비자): 남은 이벤트는 유실
+            long abandoned = acceptedCount.get() - drainedCount.get();
+            log.error("Audit writer did not stop within 10s; abandoning {} buffered audit event(s)", abandoned);
+        }
+    }
+
+    /**
+     * writer 스레드 본체. 배치가 가득 찼으면 바로 다음 배치를 처리하고,
+     * 일부만 찼으면 flush 간격만큼 기다려 이벤트가 모인 뒤에 저장합니다.
+     */
+    private void runWriter() {
+        List<AuthAuditEvent> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                if (drainAndWrite(batch) < batchSize) {
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                }
+            }
+        } finally {
+            if (running) {
+                // 예상치 못한 Error 등으로 writer가 멈춤: 이후 이벤트는 저장되지 않음
+                log.error("Audit writer thread stopped unexpectedly; audit events will no longer be persisted");
+            }
+        }
+    }
+
+    /**
+     * 버퍼에서 최대 batchSize개를 꺼내어 저장.
+     *
+     * @param batch 재사용할 배치 리스트 (호출 후 비워짐)
+     * @return 저장을 시도한 이벤트 수
+     */
+    private int drainAndWrite(List<AuthAuditEvent> batch) {
+        int drained = buffer.drainTo(batch, batchSize);
+        if (drained > 0) {
+            drainedCount.addAndGet(drained);
+            writeBatch(batch);
+            batch.clear();
+        }
+        return drained;
+    }
+
+    /**
+     * 이벤트 목록을 JDBC 배치 insert로 저장. 실패해도 writer 스레드는 계속 동작합니다.
+     * MySQL에서 실제 다중 행 insert로 전송되려면 URL에 rewriteBatchedStatements=true가 필요합니다.
+     *
+     * @param batch 저장할 이벤트 목록
+     */
+    private void writeBatch(List<AuthAuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setString(1, event.getType().name());
+                ps.setString(2, event.getUsername());
+                ps.setString(3, event.getRemoteAddr());
+                ps.setString(4, event.getDetail());
+                ps.setTimestamp(5, Timestamp.from(event.getOccurredAt()));
+            });
+        } catch (RuntimeException e) {
+            // DataAccessException뿐 아니라 모든 런타임 예외에서 writer 스레드를 유지
+            // 버퍼 포화 경고와 섞이지 않도록 별도 카운터로 집계
+            long failed = failedCount.addAndGet(batch.size());
+            log.error("Failed to persist {} audit event(s) ({} lost to persistence errors so far)",
+                    batch.size(), failed, e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.springjwt.config;
+
+import com.example.springjwt.datasource.ReplicaDataSource;
+import com.example.springjwt.datasource.ReplicaDataSourceRegistrar;
+import com.example.springjwt.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 설정 클래스.
+ * spring.datasource를 primary로, spring.datasource.replica.urls를 읽기 전용 replica 풀로 구성하고
+ * 트랜잭션의 readOnly 여부에 따라 라우팅하는 DataSource를 등록합니다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * replica마다 ReplicaDataSource Bean을 등록하는 후처리기.
+     * Bean 정의 단계에서 동작해야 하므로 static으로 선언합니다.
+     */
+    @Bean
+    public static ReplicaDataSourceRegistrar replicaDataSourceRegistrar(Environment environment) {
+        return new ReplicaDataSourceRegistrar(environment);
+    }
+
+    /**
+     * 쓰기 및 일반 트랜잭션용 primary 커넥션 풀.
+     * spring.datasource.hikari.* 설정이 그대로 적용됩니다.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * primary와 replica 풀을 묶는 라우팅 DataSource.
+     * replica URL이 지정되지 않으면 모든 요청이 primary로 전달됩니다.
+     *
+     * @param primaryDataSource primary 커넥션 풀
+     * @param replicas          등록된 replica 커넥션 풀 (spring.datasource.replica.urls 순서)
+     */
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                                          ObjectProvider<ReplicaDataSource> replicas) {
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas.orderedStream().toList());
+    }
+
+    /**
+     * 애플리케이션(JPA, JdbcTemplate)이 사용하는 기본 DataSource.
+     * 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄, 트랜잭션의 readOnly 플래그가 라우팅에 반영되도록 합니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.springjwt.config;
 
+import com.example.springjwt.audit.AuthAuditPublisher;
+import com.example.springjwt.jwt.IntrospectionClientFilter;
 import com.example.springjwt.jwt.JWTUtil;
 import com.example.springjwt.jwt.LoginFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,14 +26,26 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
+    private final AuthAuditPublisher auditPublisher;
+    private final String introspectionClientId;
+    private final String introspectionClientSecret;
 
     /**
      * AuthenticationConfiguration을 생성자 주입.
      * @param authenticationConfiguration 인증 관련 설정 객체
+     * @param auditPublisher 로그인 감사 이벤트 발행기
+     * @param introspectionClientId 토큰 검증 엔드포인트를 호출하는 내부 서비스 client-id
+     * @param introspectionClientSecret 내부 서비스 client-secret
      */
-    public SecurityConfig(AuthenticationConfiguration authenticationConfiguration, JWTUtil jwtUtil) {
+    public SecurityConfig(AuthenticationConfiguration authenticationConfiguration, JWTUtil jwtUtil,
+                          AuthAuditPublisher auditPublisher,
+                          @Value("${spring.jwt.introspection.client-id}") String introspectionClientId,
+                          @Value("${spring.jwt.introspection.client-secret}") String introspectionClientSecret) {
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtUtil = jwtUtil;
+        this.auditPublisher = auditPublisher;
+        this.introspectionClientId = introspectionClientId;
+        this.introspectionClientSecret = introspectionClientSecret;
     }
 
     /**
@@ -70,12 +85,17 @@ public class SecurityConfig {
         // 요청 경로별 접근 권한 설정
         http.authorizeHttpRequests(auth -> auth
                 .requestMatchers("/login", "/", "/join").permitAll() // 로그인, 메인, 회원가입 페이지는 모두 접근 가능
+                .requestMatchers("/introspect", "/introspect/stream").hasRole(IntrospectionClientFilter.ROLE) // 인증된 내부 서비스만 토큰 검증 가능
                 .requestMatchers("/admin").hasRole("ADMIN") // /admin 경로는 ADMIN 역할을 가진 사용자만 접근 가능
                 .anyRequest().authenticated() // 나머지 모든 요청은 인증된 사용자만 접근 가능
         );
 
         // 커스텀 로그인 필터 추가 (UsernamePasswordAuthenticationFilter 앞에 위치)
-        http.addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration),jwtUtil),
+        http.addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration),jwtUtil, auditPublisher),
+                UsernamePasswordAuthenticationFilter.class);
+
+        // 토큰 검증 엔드포인트를 호출하는 내부 서비스 인증 필터 추가 (Basic client-id / client-secret)
+        http.addFilterBefore(new IntrospectionClientFilter(introspectionClientId, introspectionClientSecret),
                 UsernamePasswordAuthenticationFilter.class);
 
         // 세션 정책 설정: STATELESS (서버가 세션을 생성하지 않음)
@@ -2,6 +2,7 @@ package com.example.springjwt.controller;
 
 import com.example.springjwt.Service.JoinService;
 import com.example.springjwt.dto.UserDTO;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -29,12 +30,13 @@ public class JoinController {
      * 클라이언트에서 전달받은 사용자 정보를 이용해 회원가입 진행.
      *
      * @param userDTO 회원가입 요청 데이터 (DTO 객체로 전달).
+     * @param request 클라이언트 요청 객체 (요청 IP를 감사 이벤트에 기록).
      * @return "ok" 문자열을 HTTP 응답으로 전송.
      */
     @PostMapping("/join")
-    public String joinProcess(UserDTO userDTO) {
+    public String joinProcess(UserDTO userDTO, HttpServletRequest request) {
         // JoinService를 사용하여 회원가입 로직 실행.
-        joinService.joinProcess(userDTO);
+        joinService.joinProcess(userDTO, request.getRemoteAddr());
 
         // 성공적으로 처리된 경우 "ok" 반환.
         return "ok";
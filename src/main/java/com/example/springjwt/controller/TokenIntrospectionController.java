@@ -0,0 +1,105 @@
+package com.example.springjwt.controller;
+
+import com.example.springjwt.Service.TokenIntrospectionService;
+import com.example.springjwt.dto.TokenIntrospectionRequest;
+import com.example.springjwt.dto.TokenIntrospectionResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * 내부 서비스를 위한 토큰 일괄 검증(introspection) 요청을 처리하는 컨트롤러 클래스.
+ */
+@Controller
+@ResponseBody
+public class TokenIntrospectionController {
+
+    private final TokenIntrospectionService introspectionService; // 토큰 검증 서비스.
+    private final ObjectMapper objectMapper; // 스트리밍 응답의 JSON 직렬화용.
+    private final int maxBatchSize; // "/introspect" 한 번에 허용하는 최대 토큰 수.
+    private final int maxStreamBatchSize; // "/introspect/stream" 한 번에 허용하는 최대 토큰 수.
+    private final int streamChunkSize; // 스트리밍 시 한 번에 검증하고 flush하는 토큰 수.
+
+    /**
+     * 생성자 주입을 통해 검증 서비스와 배치 크기 설정을 주입.
+     *
+     * @param introspectionService 토큰 검증 서비스.
+     * @param objectMapper JSON 직렬화 객체.
+     * @param maxBatchSize 일반 응답의 최대 배치 크기.
+     * @param maxStreamBatchSize 스트리밍 응답의 최대 배치 크기.
+     * @param streamChunkSize 스트리밍 청크 크기.
+     */
+    public TokenIntrospectionController(TokenIntrospectionService introspectionService, ObjectMapper objectMapper,
+                                        @Value("${spring.jwt.introspection.max-batch-size:1000}") int maxBatchSize,
+                                        @Value("${spring.jwt.introspection.stream-max-batch-size:10000}") int maxStreamBatchSize,
+                                        @Value("${spring.jwt.introspection.stream-chunk-size:512}") int streamChunkSize) {
+        this.introspectionService = introspectionService;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
+        this.maxStreamBatchSize = maxStreamBatchSize;
+        this.streamChunkSize = Math.max(1, streamChunkSize);
+    }
+
+    /**
+     * "/introspect" 경로로의 POST 요청을 처리.
+     * 전달받은 토큰을 모두 검증한 뒤 요청 순서대로 결과 배열을 반환.
+     *
+     * @param request 검증할 토큰 목록.
+     * @return 토큰별 검증 결과 목록.
+     */
+    @PostMapping(value = "/introspect", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<TokenIntrospectionResult> introspect(@RequestBody TokenIntrospectionRequest request) {
+        return introspectionService.introspectAll(validate(request, maxBatchSize));
+    }
+
+    /**
+     * "/introspect/stream" 경로로의 POST 요청을 처리.
+     * 큰 배치를 청크 단위로 검증하며, 결과를 한 줄에 하나씩(NDJSON) 요청 순서대로 바로 전송.
+     *
+     * @param request 검증할 토큰 목록.
+     * @return 청크 단위로 flush되는 스트리밍 응답.
+     */
+    @PostMapping(value = "/introspect/stream", produces = "application/x-ndjson")
+    public StreamingResponseBody introspectStream(@RequestBody TokenIntrospectionRequest request) {
+        List<String> tokens = validate(request, maxStreamBatchSize);
+
+        return out -> {
+            for (int from = 0; from < tokens.size(); from += streamChunkSize) {
+                List<String> chunk = tokens.subList(from, Math.min(from + streamChunkSize, tokens.size()));
+                for (TokenIntrospectionResult result : introspectionService.introspectAll(chunk)) {
+                    out.write(objectMapper.writeValueAsBytes(result));
+                    out.write('\n');
+                }
+                // 청크마다 flush하여 호출 측이 전체 배치를 기다리지 않고 결과를 처리할 수 있게 함.
+                out.flush();
+            }
+        };
+    }
+
+    /**
+     * 요청 본문을 확인하고 토큰 목록을 반환.
+     *
+     * @param request 요청 본문.
+     * @param limit 허용하는 최대 토큰 수.
+     * @return 검증할 토큰 목록.
+     */
+    private List<String> validate(TokenIntrospectionRequest request, int limit) {
+        if (request == null || request.getTokens() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "tokens is required");
+        }
+        if (request.getTokens().size() > limit) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "batch size exceeds limit of " + limit);
+        }
+        return request.getTokens();
+    }
+}
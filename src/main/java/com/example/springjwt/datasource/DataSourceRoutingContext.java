@@ -0,0 +1,47 @@
+package com.example.springjwt.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 DataSource 라우팅을 강제로 primary로 고정하기 위한 컨텍스트.
+ * 읽기 전용 트랜잭션이라도 복제 지연(replication lag)을 허용할 수 없는 조회에 사용합니다.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>(); // primary 강제 여부
+
+    private DataSourceRoutingContext() {
+    }
+
+    /**
+     * 주어진 작업을 primary DataSource에서 실행.
+     * 커넥션은 LazyConnectionDataSourceProxy에 의해 첫 쿼리 시점에 획득되므로,
+     * 이미 시작된 읽기 전용 트랜잭션 안에서 호출해도 primary로 라우팅됩니다.
+     *
+     * @param work 실행할 작업
+     * @return 작업 결과
+     * @param <T> 결과 타입
+     */
+    public static <T> T callOnPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드가 primary로 고정되어 있는지 확인.
+     *
+     * @return primary 강제 여부
+     */
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.springjwt.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * replica 조회 실패 시 primary 재조회를 초당 허용량으로 제한하는 lock-free rate limiter.
+ * 존재하지 않는 사용자 이름으로의 로그인 시도(크리덴셜 스터핑, 사용자 이름 열거 등)가
+ * 모두 primary로 넘어가 replica로 분산한 부하를 되돌리지 않도록 합니다.
+ * 허용량을 넘은 재조회는 생략되므로, 공격이 몰리는 동안에는 방금 가입한 사용자의 로그인이
+ * replica 복제 전까지 실패할 수 있습니다.
+ */
+@Component
+public class PrimaryFallbackLimiter {
+
+    private final long intervalNanos; // 허용 1건당 간격 (0이면 재조회 비활성화)
+    private final long burstNanos; // 한 번에 허용하는 최대 누적량 (1초분)
+    private final AtomicLong nextFreeAt; // 다음 허용이 가능한 이론적 시각 (nanoTime)
+
+    /**
+     * 생성자에서 초당 허용량을 주입.
+     *
+     * @param permitsPerSecond 초당 허용하는 primary 재조회 수 (0 이하이면 재조회하지 않음)
+     */
+    public PrimaryFallbackLimiter(@Value("${spring.datasource.replica.primary-fallback-per-second:20}") int permitsPerSecond) {
+        if (permitsPerSecond > 0) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            this.burstNanos = intervalNanos * permitsPerSecond;
+        } else {
+            this.intervalNanos = 0;
+            this.burstNanos = 0;
+        }
+        this.nextFreeAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * primary 재조회 허용 여부를 확인하고, 허용되면 1건을 소비.
+     *
+     * @return 허용되면 true
+     */
+    public boolean tryAcquire() {
+        if (intervalNanos == 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        while (true) {
+            long freeAt = nextFreeAt.get();
+            long next = (freeAt - now < 0 ? now : freeAt) + intervalNanos;
+            if (next - now > burstNanos) {
+                // 1초분 허용량을 이미 모두 사용함
+                return false;
+            }
+            if (nextFreeAt.compareAndSet(freeAt, next)) {
+                return true;
+            }
+        }
+    }
+}
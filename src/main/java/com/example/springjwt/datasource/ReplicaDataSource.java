@@ -0,0 +1,10 @@
+package com.example.springjwt.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기 전용 replica 커넥션 풀.
+ * primary 풀(HikariDataSource)과 타입으로 구분하여 replica Bean만 주입받을 수 있도록 합니다.
+ */
+public class ReplicaDataSource extends HikariDataSource {
+}
@@ -0,0 +1,108 @@
+package com.example.springjwt.datasource;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * spring.datasource.replica.urls에 지정된 replica마다 ReplicaDataSource Bean을 등록하는 클래스.
+ * 각 replica 풀은 spring.datasource.replica.hikari.* 설정을 공통 템플릿으로 사용하며,
+ * Bean으로 등록되므로 종료 시 자동으로 닫히고 DataSource 메트릭/헬스 체크 대상이 됩니다.
+ */
+public class ReplicaDataSourceRegistrar implements BeanDefinitionRegistryPostProcessor {
+
+    private final Environment environment; // replica 설정을 읽기 위한 환경 객체
+
+    /**
+     * ReplicaDataSourceRegistrar 생성자.
+     *
+     * @param environment 애플리케이션 환경 (프로퍼티 조회용)
+     */
+    public ReplicaDataSourceRegistrar(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * replica URL 목록을 읽어 replicaDataSource0, replicaDataSource1, ... Bean 정의를 등록.
+     *
+     * @param registry Bean 정의 레지스트리
+     */
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+        Binder binder = Binder.get(environment);
+        List<String> urls = binder.bind("spring.datasource.replica.urls", Bindable.listOf(String.class))
+                .orElse(List.of());
+
+        int index = 0;
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            int replicaIndex = index++;
+            String jdbcUrl = url.trim();
+
+            AbstractBeanDefinition definition = BeanDefinitionBuilder
+                    .genericBeanDefinition(ReplicaDataSource.class, () -> createReplica(binder, replicaIndex, jdbcUrl))
+                    .setDestroyMethodName(AbstractBeanDefinition.INFER_METHOD)
+                    .getBeanDefinition();
+            registry.registerBeanDefinition("replicaDataSource" + replicaIndex, definition);
+        }
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        // Bean 정의 등록만 수행하므로 추가 작업 없음
+    }
+
+    /**
+     * replica 커넥션 풀 생성.
+     * spring.datasource.replica.hikari.*를 먼저 바인딩한 뒤 URL, 계정, 풀 이름을 설정합니다.
+     * 계정과 드라이버는 지정되지 않으면 primary(spring.datasource.*) 값을 사용합니다.
+     *
+     * @param binder   프로퍼티 바인더
+     * @param index    replica 번호
+     * @param jdbcUrl  replica JDBC URL
+     * @return replica 커넥션 풀
+     */
+    private ReplicaDataSource createReplica(Binder binder, int index, String jdbcUrl) {
+        ReplicaDataSource replica = new ReplicaDataSource();
+        binder.bind("spring.datasource.replica.hikari", Bindable.ofInstance(replica));
+
+        replica.setJdbcUrl(jdbcUrl);
+        replica.setUsername(property(binder, "spring.datasource.replica.username", "spring.datasource.username"));
+        replica.setPassword(property(binder, "spring.datasource.replica.password", "spring.datasource.password"));
+        if (!StringUtils.hasText(replica.getDriverClassName())) {
+            String driverClassName = property(binder, "spring.datasource.driver-class-name", null);
+            if (StringUtils.hasText(driverClassName)) {
+                replica.setDriverClassName(driverClassName);
+            }
+        }
+        replica.setPoolName("replica-" + index);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    /**
+     * 프로퍼티 값을 조회하고, 비어 있으면 대체 프로퍼티 값을 반환.
+     *
+     * @param binder   프로퍼티 바인더
+     * @param name     우선 조회할 프로퍼티
+     * @param fallback 대체 프로퍼티 (null 가능)
+     * @return 프로퍼티 값 (둘 다 없으면 null)
+     */
+    private static String property(Binder binder, String name, String fallback) {
+        String value = binder.bind(name, String.class).orElse(null);
+        if (StringUtils.hasText(value) || fallback == null) {
+            return value;
+        }
+        return binder.bind(fallback, String.class).orElse(null);
+    }
+}
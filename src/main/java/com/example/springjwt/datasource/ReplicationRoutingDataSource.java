@@ -0,0 +1,59 @@
+package com.example.springjwt.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 풀로, 그 외 요청을 primary로 보내는 라우팅 DataSource.
+ * replica가 여러 개면 라운드 로빈으로 분산합니다.
+ * 트랜잭션의 readOnly 플래그가 커넥션 획득 전에 설정되도록 반드시
+ * LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY_KEY = "primary"; // primary DataSource 조회 키
+
+    private final List<String> replicaKeys = new ArrayList<>(); // replica 조회 키 목록
+    private final AtomicInteger nextReplica = new AtomicInteger(); // 라운드 로빈 카운터
+
+    /**
+     * ReplicationRoutingDataSource 생성자.
+     *
+     * @param primary  쓰기 및 일반 트랜잭션용 primary DataSource
+     * @param replicas 읽기 전용 트랜잭션용 replica DataSource 목록 (비어 있으면 모두 primary 사용)
+     */
+    public ReplicationRoutingDataSource(DataSource primary, List<? extends DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * 현재 트랜잭션 상태에 따라 사용할 DataSource 키를 결정.
+     *
+     * @return primary 또는 replica 키
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty()
+                || DataSourceRoutingContext.isPrimaryForced()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY_KEY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+}
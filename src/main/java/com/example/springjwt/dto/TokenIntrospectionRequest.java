@@ -0,0 +1,13 @@
+package com.example.springjwt.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+public class TokenIntrospectionRequest {
+
+    private List<String> tokens;
+}
@@ -0,0 +1,58 @@
+package com.example.springjwt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * 토큰 한 건의 검증(introspection) 결과.
+ * 유효한 토큰은 claims를, 거부된 토큰은 거부 사유(reason)를 담습니다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionResult {
+
+    private final boolean active; // 토큰 유효 여부
+
+    private final String username; // username claim (유효한 경우)
+
+    private final String role; // role claim (유효한 경우)
+
+    private final Long issuedAt; // 발급 시각, epoch 초 (유효한 경우)
+
+    private final Long expiresAt; // 만료 시각, epoch 초 (유효한 경우)
+
+    private final String reason; // 거부 사유 (거부된 경우)
+
+    private TokenIntrospectionResult(boolean active, String username, String role,
+                                     Long issuedAt, Long expiresAt, String reason) {
+        this.active = active;
+        this.username = username;
+        this.role = role;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.reason = reason;
+    }
+
+    /**
+     * 유효한 토큰의 결과 생성.
+     *
+     * @param username  username claim
+     * @param role      role claim
+     * @param issuedAt  발급 시각 (epoch 초)
+     * @param expiresAt 만료 시각 (epoch 초)
+     * @return 유효 결과
+     */
+    public static TokenIntrospectionResult active(String username, String role, Long issuedAt, Long expiresAt) {
+        return new TokenIntrospectionResult(true, username, role, issuedAt, expiresAt, null);
+    }
+
+    /**
+     * 거부된 토큰의 결과 생성.
+     *
+     * @param reason 거부 사유 (예: expired, invalid_signature, malformed)
+     * @return 거부 결과
+     */
+    public static TokenIntrospectionResult rejected(String reason) {
+        return new TokenIntrospectionResult(false, null, null, null, null, reason);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.springjwt.jwt;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 토큰 검증(introspection) 엔드포인트를 호출하는 내부 서비스를 인증하는 필터.
+ * Authorization: Basic 헤더의 client-id / client-secret이 설정값과 일치하면
+ * ROLE_INTERNAL_SERVICE 권한으로 인증합니다. 일치하지 않으면 인증하지 않고 인가 단계에서 거부됩니다.
+ */
+public class IntrospectionClientFilter extends OncePerRequestFilter {
+
+    public static final String ROLE = "INTERNAL_SERVICE"; // hasRole()에 사용할 역할 이름
+
+    private static final String PATH_PREFIX = "/introspect"; // 이 필터가 적용되는 경로
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final String clientId; // 허용된 내부 서비스 client-id
+    private final byte[] clientIdBytes; // 상수 시간 비교용 client-id 바이트
+    private final byte[] clientSecretBytes; // 상수 시간 비교용 client-secret 바이트
+
+    /**
+     * 생성자를 통해 허용할 내부 서비스 자격 증명 주입.
+     *
+     * @param clientId     내부 서비스 client-id
+     * @param clientSecret 내부 서비스 client-secret (비어 있으면 모든 요청을 인증하지 않음)
+     */
+    public IntrospectionClientFilter(String clientId, String clientSecret) {
+        this.clientId = clientId;
+        this.clientIdBytes = clientId.getBytes(StandardCharsets.UTF_8);
+        this.clientSecretBytes = clientSecret.getBytes(StandardCharsets.UTF_8);
+
+        if (clientSecretBytes.length == 0) {
+            // 저장소에는 secret을 두지 않으므로, 배포 환경에서 주입하지 않으면 모든 호출이 거부됨
+            logger.warn("spring.jwt.introspection.client-secret is empty; all calls to /introspect and "
+                    + "/introspect/stream will be rejected. Set SPRING_JWT_INTROSPECTION_CLIENT_SECRET to enable them.");
+        }
+    }
+
+    /**
+     * introspection 경로가 아니면 필터를 건너뜀.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith(PATH_PREFIX);
+    }
+
+    /**
+     * 스트리밍 응답의 async 디스패치에서도 인가가 다시 수행되므로 다시 인증.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (isAuthorizedClient(request.getHeader("Authorization"))) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    clientId, null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE))));
+            SecurityContextHolder.setContext(context);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Basic 헤더의 자격 증명이 설정값과 일치하는지 상수 시간으로 비교.
+     *
+     * @param header Authorization 헤더 값
+     * @return 일치 여부
+     */
+    private boolean isAuthorizedClient(String header) {
+        if (clientSecretBytes.length == 0 || header == null || !header.startsWith(BASIC_PREFIX)) {
+            return false;
+        }
+
+        String decoded;
+        try {
+            decoded = new String(Base64.getDecoder().decode(header.substring(BASIC_PREFIX.length()).trim()),
+                    StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // Base64 형식이 아님
+            return false;
+        }
+
+        int separator = decoded.indexOf(':');
+        if (separator < 0) {
+            return false;
+        }
+        boolean idMatches = MessageDigest.isEqual(clientIdBytes,
+                decoded.substring(0, separator).getBytes(StandardCharsets.UTF_8));
+        boolean secretMatches = MessageDigest.isEqual(clientSecretBytes,
+                decoded.substring(separator + 1).getBytes(StandardCharsets.UTF_8));
+        return idMatches & secretMatches;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.springjwt.jwt;
 
+import io.jsonwebtoken.Claims; // JWT payload (claims)
+import io.jsonwebtoken.JwtParser; // 서명 검증 및 파싱을 수행하는 파서 (thread-safe)
 import io.jsonwebtoken.Jwts; // JWT 생성을 위한 라이브러리
 import org.springframework.beans.factory.annotation.Value; // 환경 변수 값 주입
 import org.springframework.stereotype.Component;
@@ -14,6 +16,8 @@ public class JWTUtil {
 
     private SecretKey secretKey; // JWT 서명에 사용할 SecretKey
 
+    private final JwtParser jwtParser; // secretKey로 서명을 검증하는 재사용 가능한 파서
+
     /**
      * 생성자에서 secretKey를 초기화
      *
@@ -24,6 +28,22 @@ public class JWTUtil {
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
             Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.jwtParser = Jwts.parser()
+                             .verifyWith(secretKey)
+                             .build();
+    }
+
+    /**
+     * JWT의 서명과 만료 시간을 검증하고 payload 전체를 반환
+     * 파서를 한 번만 생성해 재사용하므로 대량 검증(introspection)에 사용합니다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 claims
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 만료, 형식 오류 시 예외 발생
+     * @throws IllegalArgumentException 토큰이 null이거나 비어 있을 때 예외 발생
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -88,14 +108,17 @@ public class JWTUtil {
      * @return 생성된 JWT
      * claim(): payload에 데이터 추가
      * issuedAt(new Date()): JWT 발급 시간 추가
+     * expiration(new Date()): JWT 만료 시간 추가 (발급 시간 + expiredMs)
      * signWith(secretKey): SecretKey를 사용하여 서명
      * compact(): 최종적으로 JWT를 문자열로 반환
      */
     public String createJwt(String username, String role, Long expiredMs) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                    .claim("username", username)
                    .claim("role", role)
-                   .issuedAt(new Date(System.currentTimeMillis()))
+                   .issuedAt(new Date(now))
+                   .expiration(new Date(now + expiredMs))
                    .signWith(secretKey)
                    .compact();
     }
@@ -1,5 +1,7 @@
 package com.example.springjwt.jwt;
 
+import com.example.springjwt.audit.AuthAuditEventType;
+import com.example.springjwt.audit.AuthAuditPublisher;
 import com.example.springjwt.dto.CustomUserDetails;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,15 +28,19 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final JWTUtil jwtUtil;
 
+    private final AuthAuditPublisher auditPublisher;
+
 
     /**
      * 생성자를 통해 AuthenticationManager 주입.
      *
      * @param authenticationManager 인증 처리를 담당하는 AuthenticationManager
+     * @param auditPublisher        로그인 성공/실패 감사 이벤트 발행기
      */
-    public LoginFilter(AuthenticationManager authenticationManager , JWTUtil jwtUtil) {
+    public LoginFilter(AuthenticationManager authenticationManager , JWTUtil jwtUtil, AuthAuditPublisher auditPublisher) {
         this.jwtUtil = jwtUtil;
         this.authenticationManager = authenticationManager;
+        this.auditPublisher = auditPublisher;
     }
 
     /**
@@ -85,9 +91,13 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
         String role = auth.getAuthority();
 
-        String token = jwtUtil.createJwt(username, role, 60*60*10L);
+        // 토큰 만료 시간: 10시간 (밀리초 단위)
+        String token = jwtUtil.createJwt(username, role, 60*60*10*1000L);
 
         response.addHeader("Authorization", "Bearer " + token);
+
+        // 로그인 성공 감사 이벤트 발행 (비동기 저장)
+        auditPublisher.publish(AuthAuditEventType.LOGIN_SUCCESS, username, request.getRemoteAddr(), role);
     }
 
     /**
@@ -104,5 +114,9 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
         // 인증 실패 시 처리
        response.setStatus(401);
+
+        // 로그인 실패 감사 이벤트 발행 (비동기 저장)
+        auditPublisher.publish(AuthAuditEventType.LOGIN_FAILURE, obtainUsername(request),
+                request.getRemoteAddr(), failed.getClass().getSimpleName());
     }
 }
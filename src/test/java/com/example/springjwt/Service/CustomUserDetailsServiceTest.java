@@ -0,0 +1,122 @@
+package com.example.springjwt.Service;
+
+import com.example.springjwt.datasource.DataSourceRoutingContext;
+import com.example.springjwt.datasource.PrimaryFallbackLimiter;
+import com.example.springjwt.entity.UserEntity;
+import com.example.springjwt.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomUserDetailsServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final List<String> routes = new ArrayList<>(); // 조회마다 기록한 라우팅 상태
+
+    @Test
+    void usesReplicaResultWhenUserIsFound() {
+        CustomUserDetailsService service = service(20);
+        stubLookups(user("alice"));
+
+        assertEquals("alice", service.loadUserByUsername("alice").getUsername());
+        assertEquals(List.of("replica"), routes);
+    }
+
+    @Test
+    void retriesOnPrimaryWhenReplicaIsLagging() {
+        CustomUserDetailsService service = service(20);
+        // 첫 조회(replica)는 아직 복제되지 않아 null, 재조회(primary)에서 발견
+        stubLookups(null, user("bob"));
+
+        assertEquals("bob", service.loadUserByUsername("bob").getUsername());
+        assertEquals(List.of("replica", "primary"), routes);
+    }
+
+    @Test
+    void throwsWhenUserIsMissingOnPrimaryToo() {
+        CustomUserDetailsService service = service(20);
+        stubLookups(null, null);
+
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("nobody"));
+        assertEquals(List.of("replica", "primary"), routes);
+    }
+
+    @Test
+    void skipsPrimaryRetryWhenFallbackBudgetIsExhausted() {
+        CustomUserDetailsService service = service(1);
+        stubLookups(null, null, null);
+
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("guess1"));
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("guess2"));
+
+        // 두 번째 실패는 허용량(1/s)을 넘어 primary로 가지 않음
+        assertEquals(List.of("replica", "primary", "replica"), routes);
+    }
+
+    private CustomUserDetailsService service(int fallbackPerSecond) {
+        return new CustomUserDetailsService(userRepository, new NoOpTransactionManager(),
+                new PrimaryFallbackLimiter(fallbackPerSecond));
+    }
+
+    /**
+     * 조회 결과를 순서대로 반환하면서, 각 조회 시점의 라우팅 상태를 기록.
+     * replica: 읽기 전용 트랜잭션 안이고 primary 강제가 아님 / primary: primary 강제 상태.
+     */
+    private void stubLookups(UserEntity... results) {
+        int[] call = {0};
+        when(userRepository.findByUsername(anyString())).thenAnswer(invocation -> {
+            boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+            boolean primaryForced = DataSourceRoutingContext.isPrimaryForced();
+            if (primaryForced) {
+                routes.add("primary");
+            } else if (readOnly) {
+                routes.add("replica");
+            } else {
+                routes.add("unrouted");
+            }
+            return results[call[0]++];
+        });
+    }
+
+    private static UserEntity user(String username) {
+        UserEntity entity = new UserEntity();
+        entity.setUsername(username);
+        entity.setRole("ROLE_ADMIN");
+        return entity;
+    }
+
+    /**
+     * 실제 리소스 없이 트랜잭션 동기화(readOnly 플래그 등)만 설정하는 테스트용 트랜잭션 매니저.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.springjwt.Service;
+
+import com.example.springjwt.audit.AuthAuditEventType;
+import com.example.springjwt.audit.AuthAuditPublisher;
+import com.example.springjwt.dto.UserDTO;
+import com.example.springjwt.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JoinServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AuthAuditPublisher auditPublisher = mock(AuthAuditPublisher.class);
+    private final JoinService joinService =
+            new JoinService(userRepository, mock(BCryptPasswordEncoder.class), auditPublisher);
+
+    @BeforeEach
+    void startTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void endTransaction() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void publishesJoinEventWithClientAddressOnlyAfterCommit() {
+        when(userRepository.existsByUsername("alice")).thenReturn(false);
+
+        joinService.joinProcess(userDTO("alice"), "10.0.0.7");
+
+        // 커밋 전에는 발행하지 않음
+        verify(auditPublisher, never()).publish(any(), any(), any(), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(auditPublisher).publish(AuthAuditEventType.JOIN, "alice", "10.0.0.7", "ROLE_ADMIN");
+    }
+
+    @Test
+    void doesNotPublishWhenTransactionRollsBack() {
+        when(userRepository.existsByUsername("bob")).thenReturn(false);
+
+        joinService.joinProcess(userDTO("bob"), "10.0.0.8");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(auditPublisher, never()).publish(any(), any(), any(), any());
+    }
+
+    private static UserDTO userDTO(String username) {
+        UserDTO dto = new UserDTO();
+        dto.setUsername(username);
+        dto.setPassword("password");
+        return dto;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.springjwt.Service;
+
+import com.example.springjwt.dto.TokenIntrospectionResult;
+import com.example.springjwt.jwt.JWTUtil;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenIntrospectionServiceTest {
+
+    private static final String SECRET = "introspectiontestsecretintrospectiontestsecret";
+    private static final String OTHER_SECRET = "anothersigningsecretanothersigningsecret1234";
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET);
+    private final TokenIntrospectionService service = new TokenIntrospectionService(jwtUtil, 4);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void returnsClaimsForValidToken() {
+        TokenIntrospectionResult result = service.introspect(jwtUtil.createJwt("alice", "ROLE_ADMIN", 60_000L));
+
+        assertTrue(result.isActive());
+        assertEquals("alice", result.getUsername());
+        assertEquals("ROLE_ADMIN", result.getRole());
+        assertNotNull(result.getIssuedAt());
+        assertNotNull(result.getExpiresAt());
+        assertNull(result.getReason());
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        assertRejected("expired", jwtUtil.createJwt("alice", "ROLE_ADMIN", -1_000L));
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        String forged = new JWTUtil(OTHER_SECRET).createJwt("alice", "ROLE_ADMIN", 60_000L);
+
+        assertRejected("invalid_signature", forged);
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertRejected("malformed", "not-a-jwt");
+    }
+
+    @Test
+    void rejectsNullAndEmptyToken() {
+        assertRejected("empty", null);
+        assertRejected("empty", "");
+    }
+
+    @Test
+    void rejectsTokenWithoutExpiration() {
+        String noExpiration = Jwts.builder()
+                                  .claim("username", "alice")
+                                  .claim("role", "ROLE_ADMIN")
+                                  .signWith(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"))
+                                  .compact();
+
+        assertRejected("missing_expiration", noExpiration);
+    }
+
+    @Test
+    void parallelBatchKeepsRequestOrder() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            // 유효한 토큰과 잘못된 토큰을 섞어 병렬 처리 후에도 위치가 유지되는지 확인
+            tokens.add(i % 3 == 0 ? "garbage-" + i : jwtUtil.createJwt("user" + i, "ROLE_ADMIN", 60_000L));
+        }
+
+        List<TokenIntrospectionResult> results = service.introspectAll(tokens);
+
+        assertEquals(tokens.size(), results.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            TokenIntrospectionResult result = results.get(i);
+            if (i % 3 == 0) {
+                assertFalse(result.isActive());
+                assertEquals("malformed", result.getReason());
+            } else {
+                assertTrue(result.isActive());
+                assertEquals("user" + i, result.getUsername());
+            }
+        }
+    }
+
+    private void assertRejected(String reason, String token) {
+        TokenIntrospectionResult result = service.introspect(token);
+
+        assertFalse(result.isActive());
+        assertEquals(reason, result.getReason());
+        assertNull(result.getUsername());
+    }
+}
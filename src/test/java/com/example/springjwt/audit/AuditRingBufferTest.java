@@ -0,0 +1,128 @@
+package com.example.springjwt.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditRingBufferTest {
+
+    @Test
+    void keepsOrderWhenWrappingPastCapacity() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        int next = 0;
+
+        // 용량(4)을 여러 바퀴 넘도록 3개씩 넣고 꺼냄
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(buffer.offer(next++));
+            }
+            drained.clear();
+            assertEquals(3, buffer.drainTo(drained, 10));
+            assertEquals(List.of(next - 3, next - 2, next - 1), drained);
+        }
+    }
+
+    @Test
+    void offerReturnsFalseWhenFull() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        // 하나를 꺼내면 다시 자리가 생김
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(1, buffer.drainTo(drained, 1));
+        assertEquals(List.of(0), drained);
+        assertTrue(buffer.offer(4));
+        assertFalse(buffer.offer(5));
+    }
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(5);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(8));
+    }
+
+    @Test
+    void drainToRespectsMaxElements() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(drained, 2));
+        assertEquals(3, buffer.drainTo(drained, 10));
+        assertEquals(0, buffer.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+    }
+
+    @Test
+    void multipleProducersLoseAndDuplicateNothing() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 100_000;
+        int total = producers * perProducer;
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+
+        BitSet seen = new BitSet(total);
+        int[] lastPerProducer = new int[producers];
+        Arrays.fill(lastPerProducer, -1);
+        List<Integer> drained = new ArrayList<>();
+        int received = 0;
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (received < total && System.nanoTime() < deadline) {
+            drained.clear();
+            buffer.drainTo(drained, 256);
+            for (int value : drained) {
+                assertFalse(seen.get(value), "duplicate element " + value);
+                seen.set(value);
+
+                // 같은 생산자의 원소는 넣은 순서대로 나와야 함
+                int producer = value / perProducer;
+                assertTrue(value > lastPerProducer[producer], "out of order element " + value);
+                lastPerProducer[producer] = value;
+            }
+            received += drained.size();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(total, received);
+        assertEquals(total, seen.cardinality());
+    }
+}
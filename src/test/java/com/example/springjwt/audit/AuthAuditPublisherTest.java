@@ -0,0 +1,138 @@
+package com.example.springjwt.audit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class AuthAuditPublisherTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private final List<String> written = new CopyOnWriteArrayList<>(); // 저장된 이벤트의 username
+    private final AtomicInteger batchCalls = new AtomicInteger(); // batchUpdate 호출 횟수
+    private final CountDownLatch firstBatchEntered = new CountDownLatch(1); // 첫 배치 저장 시작 신호
+    private final CountDownLatch firstBatchGate = new CountDownLatch(1); // 첫 배치 저장을 막아두는 게이트
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            Collection<AuthAuditEvent> batch = invocation.getArgument(1);
+            if (batchCalls.getAndIncrement() == 0) {
+                firstBatchEntered.countDown();
+                firstBatchGate.await(5, TimeUnit.SECONDS);
+            }
+            batch.forEach(event -> written.add(event.getUsername()));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    void shutdownFlushesBufferedEvents() throws InterruptedException {
+        firstBatchGate.countDown();
+        AuthAuditPublisher publisher = publisher(8, 2, AuditOverflowPolicy.DROP, 0);
+
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(AuthAuditEventType.JOIN, "user" + i, null, null);
+        }
+        assertTrue(written.isEmpty());
+
+        publisher.shutdown();
+
+        assertEquals(List.of("user0", "user1", "user2", "user3", "user4"), written);
+        assertEquals(3, batchCalls.get());
+    }
+
+    @Test
+    void dropPolicyDiscardsEventsWhenBufferIsFull() throws InterruptedException {
+        AuthAuditPublisher publisher = publisher(2, 2, AuditOverflowPolicy.DROP, 0);
+        publisher.start();
+        fillWhileWriterIsStuck(publisher);
+
+        // 버퍼가 가득 찬 상태: 대기 없이 바로 버려짐
+        publisher.publish(AuthAuditEventType.LOGIN_SUCCESS, "d", null, null);
+
+        firstBatchGate.countDown();
+        publisher.shutdown();
+
+        assertEquals(List.of("a", "b", "c"), written);
+    }
+
+    @Test
+    void blockPolicyWaitsForSpaceInBuffer() throws InterruptedException {
+        AuthAuditPublisher publisher = publisher(2, 2, AuditOverflowPolicy.BLOCK, 5000);
+        publisher.start();
+        fillWhileWriterIsStuck(publisher);
+
+        Thread blocked = new Thread(() -> publisher.publish(AuthAuditEventType.LOGIN_SUCCESS, "d", null, null));
+        blocked.start();
+        blocked.join(200);
+        assertTrue(blocked.isAlive(), "publish should block while the buffer is full");
+
+        // writer가 진행하면 자리가 생겨 대기 중인 publish가 성공
+        firstBatchGate.countDown();
+        blocked.join(5000);
+        assertFalse(blocked.isAlive());
+
+        publisher.shutdown();
+
+        assertEquals(List.of("a", "b", "c", "d"), written);
+    }
+
+    @Test
+    void writerSurvivesRuntimeExceptionFromJdbc() throws InterruptedException {
+        JdbcTemplate failingOnce = mock(JdbcTemplate.class);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch failed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                failed.countDown();
+                throw new IllegalStateException("boom");
+            }
+            Collection<AuthAuditEvent> batch = invocation.getArgument(1);
+            batch.forEach(event -> written.add(event.getUsername()));
+            return new int[0][];
+        }).when(failingOnce).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+
+        AuthAuditPublisher publisher = new AuthAuditPublisher(failingOnce, 8, 2, 10, AuditOverflowPolicy.DROP, 0);
+        publisher.start();
+
+        publisher.publish(AuthAuditEventType.LOGIN_FAILURE, "lost", null, null);
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+
+        publisher.publish(AuthAuditEventType.LOGIN_FAILURE, "kept", null, null);
+        publisher.shutdown();
+
+        assertEquals(List.of("kept"), written);
+    }
+
+    /**
+     * writer가 첫 이벤트("a")를 저장하는 도중 멈춰 있는 동안 버퍼(용량 2)를 "b", "c"로 가득 채움.
+     */
+    private void fillWhileWriterIsStuck(AuthAuditPublisher publisher) throws InterruptedException {
+        publisher.publish(AuthAuditEventType.LOGIN_SUCCESS, "a", null, null);
+        assertTrue(firstBatchEntered.await(5, TimeUnit.SECONDS));
+        publisher.publish(AuthAuditEventType.LOGIN_SUCCESS, "b", null, null);
+        publisher.publish(AuthAuditEventType.LOGIN_SUCCESS, "c", null, null);
+    }
+
+    private AuthAuditPublisher publisher(int capacity, int batchSize, AuditOverflowPolicy policy, long blockTimeoutMs) {
+        return new AuthAuditPublisher(jdbcTemplate, capacity, batchSize, 10, policy, blockTimeoutMs);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.springjwt.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrimaryFallbackLimiterTest {
+
+    @Test
+    void allowsOneSecondBurstThenRejects() {
+        PrimaryFallbackLimiter limiter = new PrimaryFallbackLimiter(5);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        PrimaryFallbackLimiter limiter = new PrimaryFallbackLimiter(10);
+        while (limiter.tryAcquire()) {
+            // 허용량을 모두 소진
+        }
+
+        // 10/s 이므로 100ms마다 1건씩 다시 허용
+        Thread.sleep(250);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void zeroRateDisablesFallback() {
+        assertFalse(new PrimaryFallbackLimiter(0).tryAcquire());
+    }
+}
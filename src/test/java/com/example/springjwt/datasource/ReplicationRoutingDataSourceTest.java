@@ -0,0 +1,66 @@
+package com.example.springjwt.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ReplicationRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+
+    @AfterEach
+    void clearTransactionState() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readWriteTransactionGoesToPrimary() {
+        ReplicationRoutingDataSource routing = routingWithReplicas(2);
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplicasRoundRobin() {
+        ReplicationRoutingDataSource routing = routingWithReplicas(2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void callOnPrimaryOverridesReadOnlyTransaction() {
+        ReplicationRoutingDataSource routing = routingWithReplicas(2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", DataSourceRoutingContext.callOnPrimary(routing::determineCurrentLookupKey));
+
+        // 작업이 끝나면 다시 replica로 라우팅
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readOnlyTransactionWithoutReplicasGoesToPrimary() {
+        ReplicationRoutingDataSource routing = routingWithReplicas(0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+    }
+
+    private ReplicationRoutingDataSource routingWithReplicas(int count) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            replicas.add(mock(DataSource.class));
+        }
+        return new ReplicationRoutingDataSource(primary, replicas);
+    }
+}
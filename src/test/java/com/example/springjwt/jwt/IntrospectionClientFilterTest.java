@@ -0,0 +1,73 @@
+package com.example.springjwt.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IntrospectionClientFilterTest {
+
+    private final IntrospectionClientFilter filter = new IntrospectionClientFilter("api-gateway", "gateway-secret");
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesClientWithValidCredentials() throws Exception {
+        doFilter("/introspect", basic("api-gateway", "gateway-secret"));
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("api-gateway", authentication.getName());
+        assertEquals("ROLE_" + IntrospectionClientFilter.ROLE,
+                authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void ignoresWrongSecret() throws Exception {
+        doFilter("/introspect/stream", basic("api-gateway", "wrong"));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void ignoresMissingOrMalformedHeader() throws Exception {
+        doFilter("/introspect", null);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        doFilter("/introspect", "Basic !!!not-base64");
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doesNotApplyToOtherPaths() throws Exception {
+        doFilter("/admin", basic("api-gateway", "gateway-secret"));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private void doFilter(String path, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private static String basic(String id, String secret) {
+        return "Basic " + Base64.getEncoder().encodeToString((id + ":" + secret).getBytes(StandardCharsets.UTF_8));
+    }
+}